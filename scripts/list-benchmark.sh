@@ -0,0 +1,28 @@
+#!/usr/bin/env sh
+# Measures throughput, response size and container memory for GET /tasks over a large table.
+# Usage: scripts/list-benchmark.sh <app-container> [tasks] [requests] [concurrency]
+# Needs the stack from docker-compose.yaml running, with the app published on localhost:8080.
+
+CONTAINER=${1:?usage: $0 <app-container> [tasks] [requests] [concurrency]}
+TASKS=${2:-100000}
+REQUESTS=${3:-50}
+CONCURRENCY=${4:-10}
+URL=http://localhost:8080/tasks
+
+docker exec todolist-database psql -q -U todolist -d todolist_db -c "
+    INSERT INTO tasks (title, description, creation_date, expiration_date)
+    SELECT 'benchmark-' || g, repeat('x', 64), now(), now() + interval '1 day'
+    FROM generate_series(1, $TASKS) g
+    ON CONFLICT (title) DO NOTHING"
+
+for encoding in identity gzip br zstd; do
+    size=$(curl -s -o /dev/null -H "Accept-Encoding: $encoding" -w '%{size_download}' "$URL")
+    start=$(date +%s%N)
+    seq "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} \
+        curl -s -o /dev/null -H "Accept-Encoding: $encoding" "$URL"
+    end=$(date +%s%N)
+    elapsed=$(( (end - start) / 1000000 ))
+    memory=$(docker stats --no-stream --format '{{.MemUsage}}' "$CONTAINER")
+    echo "$encoding: $size bytes/response, $REQUESTS requests in $elapsed ms" \
+        "($(( REQUESTS * 1000 / (elapsed + 1) )) req/s), memory $memory"
+done
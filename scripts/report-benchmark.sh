@@ -0,0 +1,29 @@
+#!/usr/bin/env sh
+# Compares the virtual-thread and bounded-elastic blocking schedulers on GET /tasks/reports/daily.
+# Usage: scripts/report-benchmark.sh [requests] [concurrency]
+# Needs a packaged jar (./mvnw package -DskipTests) and the database from docker-compose-dev.yaml.
+
+REQUESTS=${1:-5000}
+CONCURRENCY=${2:-500}
+JAR=$(ls target/*.jar | head -n 1)
+URL="http://localhost:8080/tasks/reports/daily?days=30"
+
+for scheduler in virtual bounded-elastic; do
+    java -jar "$JAR" --todolist.blocking.scheduler="$scheduler" > "target/report-benchmark-$scheduler.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null http://localhost:8080/tasks; do
+        sleep 0.2
+    done
+
+    start=$(date +%s%N)
+    statuses=$(seq "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} \
+        curl -s -o /dev/null -w '%{http_code}\n' "$URL" | sort | uniq -c | tr '\n' ' ')
+    end=$(date +%s%N)
+    elapsed=$(( (end - start) / 1000000 ))
+    threads=$(jcmd "$pid" Thread.print 2>/dev/null | grep -c '^"')
+
+    echo "$scheduler: $REQUESTS requests at concurrency $CONCURRENCY in $elapsed ms" \
+        "($(( REQUESTS * 1000 / (elapsed + 1) )) req/s), statuses: $statuses, platform threads: $threads"
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+done
@@ -0,0 +1,33 @@
+#!/usr/bin/env sh
+# Measures time from container start to the first successful GET /tasks, for one or more images,
+# and prints each run plus the median per image, so a baseline image can be compared to a new one.
+# Usage: scripts/startup-benchmark.sh [runs] <image> [image...]
+# Needs the database from docker-compose-dev.yaml running on the todolist-network.
+
+RUNS=${1:?usage: $0 [runs] <image> [image...]}
+case "$RUNS" in
+    *[!0-9]*) RUNS=5 ;;
+    *) shift ;;
+esac
+[ $# -gt 0 ] || { echo "usage: $0 [runs] <image> [image...]" >&2; exit 1; }
+
+for image in "$@"; do
+    times=""
+    for run in $(seq 1 "$RUNS"); do
+        start=$(date +%s%N)
+        container=$(docker run -d --rm --network todolist-network -p 8080:8080 \
+            -e SPRING_R2DBC_URL=r2dbc:postgresql://todolist-database:5432/todolist_db \
+            -e SPRING_DATASOURCE_URL=jdbc:postgresql://todolist-database:5432/todolist_db \
+            "$image")
+        until curl -sf -o /dev/null http://localhost:8080/tasks; do
+            sleep 0.05
+        done
+        end=$(date +%s%N)
+        elapsed=$(( (end - start) / 1000000 ))
+        times="$times $elapsed"
+        echo "$image run $run: $elapsed ms to first request"
+        docker stop "$container" > /dev/null
+    done
+    median=$(echo "$times" | tr ' ' '\n' | grep . | sort -n | awk '{ t[NR] = $1 } END { print t[int((NR + 1) / 2)] }')
+    echo "$image median: $median ms"
+done
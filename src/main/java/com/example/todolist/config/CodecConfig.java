@@ -0,0 +1,22 @@
+package com.example.todolist.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class CodecConfig {
+
+    /**
+     * Runs after Boot's own Jackson customizer, so the pooled encoder replaces the default one
+     * while keeping the ObjectMapper configured through {@code spring.jackson}.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public CodecCustomizer pooledJacksonCodecCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new PooledJackson2JsonEncoder(objectMapper));
+    }
+}
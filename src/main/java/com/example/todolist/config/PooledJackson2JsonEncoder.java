@@ -0,0 +1,162 @@
+package com.example.todolist.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Jackson encoder that serializes each value straight into a buffer allocated from the exchange's
+ * {@link DataBufferFactory} (pooled Netty buffers on the server). The default encoder writes each
+ * element into a {@code ByteArrayBuilder}, turns it into a {@code byte[]} and copies that into a new
+ * buffer. Here the only copy left is Netty growing the buffer when a value outgrows its initial size.
+ * <p>
+ * Elements of a JSON array are packed into buffers of at least {@value #BATCH_SIZE} bytes, so each
+ * HTTP chunk, and each call to the response compressor, covers many small values instead of one.
+ * Streaming media types such as NDJSON keep one buffer per element, since each is flushed as soon
+ * as it is produced. JSON views and filter hints are ignored, the API uses neither.
+ */
+public class PooledJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int BATCH_SIZE = 8 * 1024;
+    private static final int BATCH_CAPACITY = 2 * BATCH_SIZE;
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    public PooledJackson2JsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+        }
+        ObjectWriter writer = objectWriter(elementType);
+        byte[] separator = getStreamingMediaTypeSeparator(mimeType);
+        if (separator != null) {
+            return Flux.from(inputStream)
+                    .map(value -> write(writer, value, bufferFactory, null, separator));
+        }
+        return Flux.defer(() -> {
+            JsonArrayBatch batch = new JsonArrayBatch(writer, bufferFactory);
+            return Flux.from(inputStream)
+                    .<DataBuffer>handle((value, sink) -> {
+                        DataBuffer full = batch.write(value);
+                        if (full != null) {
+                            sink.next(full);
+                        }
+                    })
+                    .concatWith(Mono.fromSupplier(batch::finish))
+                    .doFinally(signal -> batch.release());
+        });
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return write(objectWriter(valueType), value, bufferFactory, null, null);
+    }
+
+    private ObjectWriter objectWriter(ResolvableType type) {
+        return getObjectMapper()
+                .writerFor(getJavaType(type.getType(), null))
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static DataBuffer write(ObjectWriter writer, Object value, DataBufferFactory bufferFactory,
+                                    @Nullable byte[] prefix, @Nullable byte[] suffix) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        try {
+            writeInto(buffer, writer, value, prefix, suffix);
+            return buffer;
+        } catch (EncodingException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    private static void writeInto(DataBuffer buffer, ObjectWriter writer, Object value,
+                                  @Nullable byte[] prefix, @Nullable byte[] suffix) {
+        try (OutputStream out = buffer.asOutputStream()) {
+            if (prefix != null) {
+                out.write(prefix);
+            }
+            writer.writeValue(out, value);
+            if (suffix != null) {
+                out.write(suffix);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new EncodingException("JSON encoding error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The buffer a JSON array is being written into. Synchronized because a cancellation may
+     * release it from another thread while a value is being written.
+     */
+    private static final class JsonArrayBatch {
+
+        private final ObjectWriter writer;
+        private final DataBufferFactory bufferFactory;
+        @Nullable
+        private DataBuffer buffer;
+        private boolean empty = true;
+
+        private JsonArrayBatch(ObjectWriter writer, DataBufferFactory bufferFactory) {
+            this.writer = writer;
+            this.bufferFactory = bufferFactory;
+        }
+
+        /**
+         * Appends a value, returning the buffer once it holds at least {@code BATCH_SIZE} bytes.
+         */
+        @Nullable
+        synchronized DataBuffer write(Object value) {
+            if (buffer == null) {
+                buffer = bufferFactory.allocateBuffer(BATCH_CAPACITY);
+            }
+            writeInto(buffer, writer, value, empty ? ARRAY_START : ARRAY_SEPARATOR, null);
+            empty = false;
+            if (buffer.readableByteCount() < BATCH_SIZE) {
+                return null;
+            }
+            DataBuffer full = buffer;
+            buffer = null;
+            return full;
+        }
+
+        synchronized DataBuffer finish() {
+            DataBuffer last = buffer != null ? buffer : bufferFactory.allocateBuffer(EMPTY_ARRAY.length);
+            buffer = null;
+            return last.write(empty ? EMPTY_ARRAY : ARRAY_END);
+        }
+
+        synchronized void release() {
+            if (buffer != null) {
+                DataBufferUtils.release(buffer);
+                buffer = null;
+            }
+        }
+    }
+}
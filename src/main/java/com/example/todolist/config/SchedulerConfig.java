@@ -0,0 +1,28 @@
+package com.example.todolist.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * Scheduler for blocking work (JDBC, file IO) that must never run on the event loop.
+     * Defaults to one virtual thread per task; "bounded-elastic" switches back to Reactor's
+     * platform-thread pool so both can be compared under the same load.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(@Value("${todolist.blocking.scheduler:virtual}") String type) {
+        return switch (type) {
+            case "virtual" -> Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "blocking-virtual");
+            case "bounded-elastic" -> Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                    Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "blocking-elastic");
+            default -> throw new IllegalArgumentException("Unknown blocking scheduler: " + type);
+        };
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.todolist.controllers;
 
+import com.example.todolist.dtos.DailyTaskCountDTO;
 import com.example.todolist.dtos.TaskDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
 import com.example.todolist.entities.Task;
 import com.example.todolist.services.interfaces.ITaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -47,12 +49,12 @@ public class TaskController {
     @ApiResponse(responseCode = "204", description = "No tasks available")
     public Mono<ResponseEntity<Flux<Task>>> getAllTasks() {
         log.info("Requested to get all tasks");
-        Flux<Task> tasks = taskService.getAllTasks();
-        return tasks.collectList().map(list ->
-                list.isEmpty() ?
-                        new ResponseEntity<>(null, HttpStatus.NO_CONTENT) :
-                        new ResponseEntity<>(tasks, HttpStatus.OK)
-        );
+        // Peek at the first signal only, so the body is streamed from the same subscription
+        // instead of being collected into a list and then queried a second time.
+        return Mono.fromDirect(taskService.getAllTasks()
+                .switchOnFirst((signal, tasks) -> signal.hasValue() ?
+                        Mono.just(new ResponseEntity<Flux<Task>>(tasks, HttpStatus.OK)) :
+                        tasks.then(Mono.just(new ResponseEntity<Flux<Task>>(HttpStatus.NO_CONTENT))), false));
     }
 
     @GetMapping("/{id}")
@@ -95,4 +97,21 @@ public class TaskController {
         return taskService.deleteTask(id)
                 .then(Mono.just(new ResponseEntity<>(HttpStatus.NO_CONTENT)));
     }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Task statistics", description = "Returns total, overdue, expiring in the next 24h and created per day counts")
+    @ApiResponse(responseCode = "200", description = "Successful retrieval of task statistics")
+    public Mono<ResponseEntity<TaskStatsDTO>> getTaskStats() {
+        log.info("Requested task statistics");
+        return taskService.getTaskStats().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/reports/daily")
+    @Operation(summary = "Daily creation report", description = "Returns how many tasks were created on each of the last given days")
+    @ApiResponse(responseCode = "200", description = "Successful retrieval of the report")
+    @ApiResponse(responseCode = "422", description = "Unprocessable Entity if the number of days is out of range")
+    public Flux<DailyTaskCountDTO> getDailyCreationReport(@RequestParam(defaultValue = "30") int days) {
+        log.info("Requested daily creation report for the last {} days", days);
+        return taskService.getDailyCreationReport(days);
+    }
 }
@@ -29,6 +29,12 @@ public class TaskControllerAdvice {
         return Mono.just(new ResponseEntity<>(apiError, HttpStatus.UNPROCESSABLE_ENTITY));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public Mono<ResponseEntity<ApiError>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ApiError apiError = new ApiError("Service Unavailable", ex.getMessage(), null);
+        return Mono.just(new ResponseEntity<>(apiError, HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<ApiError>> handleGenericException(Exception ex) {
         ApiError apiError = new ApiError("Bad Request", "The request cannot be fulfilled due to bad syntax.", null);
@@ -0,0 +1,17 @@
+package com.example.todolist.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTaskCountDTO {
+
+    private LocalDate day;
+    private long created;
+
+}
@@ -0,0 +1,22 @@
+package com.example.todolist.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    private long total;
+    private long overdue;
+    private long expiringNext24h;
+    private Map<LocalDate, Long> createdPerDay;
+    private LocalDateTime reconciledAt;
+
+}
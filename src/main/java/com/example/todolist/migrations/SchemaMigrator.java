@@ -0,0 +1,292 @@
+package com.example.todolist.migrations;
+
+import com.example.todolist.errors.DefaultException;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the versioned scripts in {@code db/migration} in version order, recording each applied
+ * version in {@code schema_migrations}.
+ * <p>
+ * {@code V<n>__<description>.sql} scripts run statement by statement in auto-commit mode. They are
+ * applied before the application reports ready, and a failure stops the startup. Two kinds of
+ * scripts may take long without blocking writes: scripts that build an index with
+ * {@code CREATE INDEX CONCURRENTLY}, and {@code V<n>__<description>.backfill.sql} scripts, which hold
+ * a single statement updating at most {@code :batchSize} rows not yet backfilled that is repeated,
+ * pausing between batches, until it updates nothing. When they are the last pending scripts, they run
+ * in the background once the application is ready. A background script followed by an ordinary one
+ * holds the startup instead, since the code shipped with the ordinary script may need its schema;
+ * to keep startup fast, ship the scripts that depend on a backfill or index in a later release.
+ * <p>
+ * A failed concurrent build leaves an invalid index behind, so the indexes a script builds are
+ * dropped first when Postgres marks them invalid. Those scripts should use {@code IF NOT EXISTS}, so
+ * a valid index built just before a crash, with its version not yet recorded, is kept on the rerun.
+ * Postgres advisory locks keep replicas starting together from applying the same migration.
+ */
+@Component
+@Slf4j
+public class SchemaMigrator implements SmartInitializingSingleton {
+
+    /**
+     * Advisory lock held while ordinary migrations are applied. Keys are shared by every client of
+     * the database, so they start with "todo" in ASCII to stay clear of other applications' locks.
+     */
+    static final long SCHEMA_LOCK_KEY = 0x746F_646F_0000_0001L;
+
+    /**
+     * Advisory lock held while a background script is applied, so that a single replica builds
+     * indexes and runs backfills while the others keep starting up. Always taken after
+     * {@link #SCHEMA_LOCK_KEY} when both are needed.
+     */
+    static final long BACKGROUND_LOCK_KEY = 0x746F_646F_0000_0002L;
+
+    private static final Pattern MIGRATION_FILE_NAME = Pattern.compile("V(\\d+)__(.+?)(\\.backfill)?\\.sql");
+    private static final Pattern CONCURRENT_INDEX = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+CONCURRENTLY\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final String CREATE_HISTORY_TABLE = """
+            CREATE TABLE IF NOT EXISTS schema_migrations (
+                version INTEGER PRIMARY KEY,
+                description VARCHAR(255) NOT NULL,
+                applied_at TIMESTAMP WITH TIME ZONE NOT NULL
+            )""";
+
+    private static final String FIND_INVALID_INDEX = """
+            SELECT c.relname FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = :name
+              AND c.relnamespace = current_schema()::regnamespace
+              AND NOT i.indisvalid""";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final String location;
+    private final boolean enabled;
+    private final int backfillBatchSize;
+    private final Duration backfillPause;
+
+    public SchemaMigrator(ConnectionFactory connectionFactory,
+                          DatabaseClient databaseClient,
+                          @Value("${todolist.migration.location:classpath:db/migration/*.sql}") String location,
+                          @Value("${todolist.migration.enabled:true}") boolean enabled,
+                          @Value("${todolist.migration.backfill.batch-size:1000}") int backfillBatchSize,
+                          @Value("${todolist.migration.backfill.pause-ms:100}") long backfillPauseMs) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = databaseClient;
+        this.location = location;
+        this.enabled = enabled;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillPause = Duration.ofMillis(backfillPauseMs);
+    }
+
+    /**
+     * Applies the pending migrations up to the last ordinary one while the context refreshes, before
+     * the server starts accepting requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            log.info("Schema migrations are disabled.");
+            return;
+        }
+        withLock(SCHEMA_LOCK_KEY, createHistoryTable().then(applyForeground())).block();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInBackground() {
+        if (!enabled) {
+            return;
+        }
+        withLock(BACKGROUND_LOCK_KEY, applyBackground())
+                .subscribe(null, e -> log.error("Background schema migration failed: {}", e.getMessage()));
+    }
+
+    Mono<Void> createHistoryTable() {
+        return databaseClient.sql(CREATE_HISTORY_TABLE).then();
+    }
+
+    Mono<Void> applyForeground() {
+        return findPending()
+                .collectList()
+                .flatMapMany(pending -> Flux.fromIterable(startupMigrations(pending)))
+                .concatMap(migration -> migration.background() ? holdStartup(migration) : apply(migration))
+                .then()
+                .doOnSuccess(aVoid -> log.info("Startup schema migrations applied."));
+    }
+
+    Mono<Void> applyBackground() {
+        return findPending()
+                .concatMap(this::applyInBackground)
+                .then()
+                .doOnSuccess(aVoid -> log.info("Database schema is up to date."));
+    }
+
+    /**
+     * The pending migrations that must be in place before the application serves requests: every
+     * one up to the last ordinary script, including the background scripts before it.
+     */
+    static List<Migration> startupMigrations(List<Migration> pending) {
+        int lastOrdinary = -1;
+        for (int i = 0; i < pending.size(); i++) {
+            if (!pending.get(i).background()) {
+                lastOrdinary = i;
+            }
+        }
+        return pending.subList(0, lastOrdinary + 1);
+    }
+
+    private Mono<Void> holdStartup(Migration migration) {
+        log.warn("Startup waits for background migration V{} because a later migration depends on it.",
+                migration.version());
+        return withLock(BACKGROUND_LOCK_KEY, applyIfPending(migration));
+    }
+
+    private Flux<Migration> findPending() {
+        return Mono.fromCallable(() -> findMigrations(location))
+                .zipWith(findAppliedVersions())
+                .flatMapMany(found -> Flux.fromIterable(found.getT1())
+                        .filter(migration -> !found.getT2().contains(migration.version())));
+    }
+
+    private Mono<Set<Integer>> findAppliedVersions() {
+        return databaseClient.sql("SELECT version FROM schema_migrations")
+                .map(row -> row.get("version", Integer.class))
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    private Mono<Void> applyIfPending(Migration migration) {
+        return findAppliedVersions()
+                .filter(applied -> !applied.contains(migration.version()))
+                .flatMap(applied -> applyInBackground(migration));
+    }
+
+    private Mono<Void> applyInBackground(Migration migration) {
+        return dropInvalidIndexes(migration).then(Mono.defer(() -> apply(migration)));
+    }
+
+    private Mono<Void> apply(Migration migration) {
+        log.info("Applying migration V{}: {}", migration.version(), migration.description());
+        Mono<Void> script = migration.backfill() ?
+                backfill(migration).then() :
+                new ResourceDatabasePopulator(migration.resource()).populate(connectionFactory);
+        return script
+                .then(Mono.defer(() -> databaseClient
+                        .sql("INSERT INTO schema_migrations (version, description, applied_at) VALUES (:version, :description, :appliedAt)")
+                        .bind("version", migration.version())
+                        .bind("description", migration.description())
+                        .bind("appliedAt", OffsetDateTime.now())
+                        .then()))
+                .doOnSuccess(aVoid -> log.info("Migration V{} applied.", migration.version()));
+    }
+
+    Mono<Long> backfill(Migration migration) {
+        return Mono.fromCallable(() -> readStatement(migration.resource()))
+                .flatMap(sql -> databaseClient.sql(sql)
+                        .bind("batchSize", backfillBatchSize)
+                        .fetch()
+                        .rowsUpdated()
+                        .delayUntil(rows -> Mono.delay(backfillPause))
+                        .repeat()
+                        .takeWhile(rows -> rows > 0)
+                        .reduce(0L, Long::sum))
+                .doOnNext(total -> log.info("Backfill V{} updated {} rows.", migration.version(), total));
+    }
+
+    private Mono<Void> dropInvalidIndexes(Migration migration) {
+        return Flux.fromIterable(migration.concurrentIndexes())
+                .concatMap(name -> databaseClient.sql(FIND_INVALID_INDEX)
+                        .bind("name", name)
+                        .map(row -> name)
+                        .all())
+                .concatMap(name -> {
+                    log.warn("Dropping invalid index {} left by a failed build of V{}.", name, migration.version());
+                    return databaseClient.sql("DROP INDEX CONCURRENTLY " + name).then();
+                })
+                .then();
+    }
+
+    private <T> Mono<T> withLock(long key, Mono<T> work) {
+        return Mono.usingWhen(connectionFactory.create(),
+                connection -> execute(connection, "SELECT pg_advisory_lock(" + key + ")").then(work),
+                connection -> execute(connection, "SELECT pg_advisory_unlock(" + key + ")")
+                        .onErrorResume(e -> Mono.empty())
+                        .then(Mono.from(connection.close())));
+    }
+
+    private static Mono<Void> execute(Connection connection, String sql) {
+        return Flux.from(connection.createStatement(sql).execute())
+                .flatMap(result -> result.map((row, metadata) -> true))
+                .then();
+    }
+
+    static List<Migration> findMigrations(String location) {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(location);
+        } catch (IOException e) {
+            throw new DefaultException("Could not list migrations in " + location, e);
+        }
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : resources) {
+            Matcher matcher = MIGRATION_FILE_NAME.matcher(resource.getFilename());
+            if (!matcher.matches()) {
+                throw new DefaultException("Invalid migration file name: " + resource.getFilename());
+            }
+            List<String> concurrentIndexes = CONCURRENT_INDEX.matcher(readStatement(resource))
+                    .results()
+                    .map(result -> result.group(1))
+                    .toList();
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    matcher.group(3) != null, concurrentIndexes, resource));
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new DefaultException("Duplicate migration version: V" + migrations.get(i).version());
+            }
+        }
+        return migrations;
+    }
+
+    private static String readStatement(Resource resource) {
+        try {
+            return resource.getContentAsString(StandardCharsets.UTF_8).strip().replaceAll(";$", "");
+        } catch (IOException e) {
+            throw new DefaultException("Could not read migration " + resource.getFilename(), e);
+        }
+    }
+
+    record Migration(int version, String description, boolean backfill, List<String> concurrentIndexes,
+                     Resource resource) {
+
+        boolean background() {
+            return backfill || !concurrentIndexes.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.todolist.repositories;
+
+import com.example.todolist.dtos.DailyTaskCountDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Blocking JDBC access for analytic queries. Every call blocks the calling thread,
+ * so callers must subscribe on the blocking scheduler.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskReportRepository {
+
+    private static final String DAILY_CREATION_COUNTS = """
+            SELECT CAST(creation_date AS DATE) AS day, COUNT(*) AS created
+            FROM tasks
+            WHERE creation_date >= ?
+            GROUP BY CAST(creation_date AS DATE)
+            ORDER BY day""";
+
+    private static final String HOURLY_EXPIRATION_COUNTS = """
+            SELECT date_trunc('hour', expiration_date) AS hour, COUNT(*) AS expiring
+            FROM tasks
+            WHERE expiration_date >= ? AND expiration_date < ?
+            GROUP BY date_trunc('hour', expiration_date)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<DailyTaskCountDTO> findDailyCreationCounts(LocalDate from) {
+        return jdbcTemplate.query(DAILY_CREATION_COUNTS,
+                (rs, rowNum) -> new DailyTaskCountDTO(rs.getDate("day").toLocalDate(), rs.getLong("created")),
+                Date.valueOf(from));
+    }
+
+    public long countAll() {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        return total == null ? 0 : total;
+    }
+
+    public long countExpiredBefore(LocalDateTime before) {
+        Long expired = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE expiration_date < ?",
+                Long.class, Timestamp.valueOf(before));
+        return expired == null ? 0 : expired;
+    }
+
+    public Map<LocalDateTime, Long> findHourlyExpirationCounts(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, Long> counts = new TreeMap<>();
+        jdbcTemplate.query(HOURLY_EXPIRATION_COUNTS, rs -> {
+            counts.put(rs.getTimestamp("hour").toLocalDateTime(), rs.getLong("expiring"));
+        }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return counts;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.todolist.services;
+
+import com.example.todolist.errors.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs blocking calls on the blocking scheduler with at most {@code todolist.blocking.max-concurrency}
+ * in flight, which defaults to the JDBC pool size. Callers beyond that wait for a permit instead of
+ * piling up on the pool; if no permit or result arrives within {@code todolist.blocking.timeout-ms},
+ * the call fails with {@link ServiceUnavailableException}.
+ */
+@Component
+public class BlockingExecutor {
+
+    private final Scheduler blockingScheduler;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public BlockingExecutor(Scheduler blockingScheduler,
+                            @Value("${todolist.blocking.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+                            @Value("${todolist.blocking.timeout-ms:10000}") long timeoutMs) {
+        this.blockingScheduler = blockingScheduler;
+        this.permits = new Semaphore(maxConcurrency);
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    public <T> Mono<T> call(Callable<T> callable) {
+        return Mono.fromCallable(() -> {
+                    if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        throw new ServiceUnavailableException("Too many concurrent blocking calls.");
+                    }
+                    try {
+                        return callable.call();
+                    } finally {
+                        permits.release();
+                    }
+                })
+                .subscribeOn(blockingScheduler)
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new ServiceUnavailableException("Blocking call timed out.", e))
+                .onErrorMap(CannotGetJdbcConnectionException.class,
+                        e -> new ServiceUnavailableException("No database connection available.", e));
+    }
+}
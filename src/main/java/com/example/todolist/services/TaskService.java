@@ -1,10 +1,13 @@
 package com.example.todolist.services;
 
+import com.example.todolist.dtos.DailyTaskCountDTO;
 import com.example.todolist.dtos.TaskDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
 import com.example.todolist.entities.Task;
 import com.example.todolist.errors.TaskNotFoundException;
 import com.example.todolist.errors.TaskTitleExistsException;
 import com.example.todolist.errors.TaskValidationException;
+import com.example.todolist.repositories.TaskReportRepository;
 import com.example.todolist.repositories.TaskRepository;
 import com.example.todolist.services.interfaces.ITaskService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,7 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -24,6 +28,9 @@ public class TaskService implements ITaskService {
 
     private final TaskRepository taskRepository;
     private final ModelMapper modelMapper;
+    private final TaskReportRepository taskReportRepository;
+    private final BlockingExecutor blockingExecutor;
+    private final TaskStatistics taskStatistics;
 
     @Override
     public Mono<Task> createTask(TaskDTO taskDTO) {
@@ -47,6 +54,7 @@ public class TaskService implements ITaskService {
                 .cast(Task.class)
                 .doOnSuccess(createdTask -> {
                     if (createdTask != null) {
+                        taskStatistics.recordCreated(createdTask);
                         log.info("Task '{}' created successfully.", createdTask.getTitle());
                     }
                 })
@@ -91,10 +99,12 @@ public class TaskService implements ITaskService {
                         return Mono.error(new TaskValidationException("Expiration date cannot be before creation date."));
                     }
                     log.info("Updating task '{}'.", existingTask.getId());
+                    LocalDateTime previousExpirationDate = existingTask.getExpirationDate();
                     existingTask.setTitle(taskDetails.getTitle());
                     existingTask.setDescription(taskDetails.getDescription());
                     existingTask.setExpirationDate(taskDetails.getExpirationDate());
-                    return taskRepository.save(existingTask);
+                    return taskRepository.save(existingTask)
+                            .doOnNext(savedTask -> taskStatistics.recordExpirationChanged(previousExpirationDate, savedTask.getExpirationDate()));
                 })
                 .doOnSuccess(updatedTask -> log.info("Task with id '{}' updated successfully.", updatedTask.getId()))
                 .doOnError(e -> log.error("Update failed for task with id '{}': {}", id, e.getMessage()));
@@ -110,9 +120,30 @@ public class TaskService implements ITaskService {
                 }))
                 .flatMap(task -> {
                     log.info("Task with id '{}' will be deleted.", task.getId());
-                    return taskRepository.deleteById(id);
+                    return taskRepository.deleteById(id)
+                            .doOnSuccess(aVoid -> taskStatistics.recordDeleted(task));
                 })
                 .doOnSuccess(aVoid -> log.info("Task with id '{}' deleted successfully.", id))
                 .doOnError(e -> log.error("Delete failed for task with id '{}': {}", id, e.getMessage()));
     }
+
+    @Override
+    public Mono<TaskStatsDTO> getTaskStats() {
+        log.info("Fetching task statistics.");
+        return Mono.fromSupplier(taskStatistics::snapshot);
+    }
+
+    @Override
+    public Flux<DailyTaskCountDTO> getDailyCreationReport(int days) {
+        log.info("Building daily creation report for the last {} days.", days);
+        if (days < 1 || days > 366) {
+            log.error("Failed to build report, days must be between 1 and 366.");
+            return Flux.error(new TaskValidationException("Days must be between 1 and 366."));
+        }
+        LocalDate from = LocalDate.now().minusDays(days - 1L);
+        return blockingExecutor.call(() -> taskReportRepository.findDailyCreationCounts(from))
+                .flatMapIterable(counts -> counts)
+                .doOnComplete(() -> log.info("Daily creation report built successfully."))
+                .doOnError(e -> log.error("Error building daily creation report: {}", e.getMessage()));
+    }
 }
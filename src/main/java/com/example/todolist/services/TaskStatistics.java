@@ -0,0 +1,199 @@
+package com.example.todolist.services;
+
+import com.example.todolist.dtos.DailyTaskCountDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
+import com.example.todolist.entities.Task;
+import com.example.todolist.repositories.TaskReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory task counters kept up to date by {@link TaskService} on every write, so that
+ * statistics never have to scan the table. Expirations are bucketed per hour, which is the
+ * resolution of the overdue and expiring figures.
+ * <p>
+ * Only hours from the current one up to 24h plus {@code todolist.stats.horizon-margin-hours}
+ * are bucketed; as hours pass, their buckets are folded into a single overdue counter. Tasks
+ * expiring beyond that horizon are picked up by the next reconciliation, so the reconcile
+ * interval must stay shorter than the margin; startup fails otherwise. Counters are per instance: with several replicas,
+ * writes handled elsewhere only show up here after the next reconciliation.
+ */
+@Component
+@Slf4j
+public class TaskStatistics {
+
+    private final TaskReportRepository taskReportRepository;
+    private final int createdDays;
+    private final int horizonMarginHours;
+    private final Clock clock;
+
+    private volatile Counters counters;
+
+    @Autowired
+    public TaskStatistics(TaskReportRepository taskReportRepository,
+                          @Value("${todolist.stats.created-days:30}") int createdDays,
+                          @Value("${todolist.stats.horizon-margin-hours:2}") int horizonMarginHours,
+                          @Value("${todolist.stats.reconcile-interval-ms:60000}") long reconcileIntervalMs) {
+        this(taskReportRepository, createdDays, horizonMarginHours, reconcileIntervalMs, Clock.systemDefaultZone());
+    }
+
+    TaskStatistics(TaskReportRepository taskReportRepository, int createdDays, int horizonMarginHours,
+                   long reconcileIntervalMs, Clock clock) {
+        if (reconcileIntervalMs >= Duration.ofHours(horizonMarginHours).toMillis()) {
+            throw new IllegalArgumentException("todolist.stats.reconcile-interval-ms (" + reconcileIntervalMs
+                    + ") must be shorter than todolist.stats.horizon-margin-hours (" + horizonMarginHours + "h)");
+        }
+        this.taskReportRepository = taskReportRepository;
+        this.createdDays = createdDays;
+        this.horizonMarginHours = horizonMarginHours;
+        this.clock = clock;
+        this.counters = new Counters(currentHour(), null);
+    }
+
+    public void recordCreated(Task task) {
+        Counters current = counters;
+        current.total.increment();
+        add(current.createdByDay, task.getCreationDate().toLocalDate(), 1);
+        addExpiration(current, task.getExpirationDate(), 1);
+    }
+
+    public void recordExpirationChanged(LocalDateTime previous, LocalDateTime updated) {
+        Counters current = counters;
+        addExpiration(current, previous, -1);
+        addExpiration(current, updated, 1);
+    }
+
+    public void recordDeleted(Task task) {
+        Counters current = counters;
+        current.total.decrement();
+        add(current.createdByDay, task.getCreationDate().toLocalDate(), -1);
+        addExpiration(current, task.getExpirationDate(), -1);
+    }
+
+    public TaskStatsDTO snapshot() {
+        Counters current = counters;
+        LocalDateTime hour = currentHour();
+        roll(current, hour);
+        LocalDate firstDay = LocalDate.now(clock).minusDays(createdDays - 1L);
+
+        Map<LocalDate, Long> createdPerDay = new LinkedHashMap<>();
+        current.createdByDay.tailMap(firstDay, true)
+                .forEach((day, count) -> createdPerDay.put(day, count.sum()));
+
+        long expiringNext24h = 0;
+        for (LongAdder count : current.expiringByHour.headMap(hour.plusHours(24), false).values()) {
+            expiringNext24h += count.sum();
+        }
+
+        return new TaskStatsDTO(
+                current.total.sum(),
+                current.overdue.sum(),
+                expiringNext24h,
+                createdPerDay,
+                current.reconciledAt);
+    }
+
+    /**
+     * Rebuilds every counter from SQL aggregates to correct drift. Runs on the task scheduler's
+     * own thread, never on the event loop, so the JDBC queries may block here.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${todolist.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Counters fresh = loadCounters();
+            counters = fresh;
+            log.info("Task statistics reconciled, {} tasks counted.", fresh.total.sum());
+        } catch (RuntimeException e) {
+            log.error("Task statistics reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private Counters loadCounters() {
+        LocalDateTime hour = currentHour();
+        Counters fresh = new Counters(hour, LocalDateTime.now(clock));
+        fresh.total.add(taskReportRepository.countAll());
+        fresh.overdue.add(taskReportRepository.countExpiredBefore(hour));
+        for (DailyTaskCountDTO count : taskReportRepository.findDailyCreationCounts(LocalDate.now(clock).minusDays(createdDays - 1L))) {
+            add(fresh.createdByDay, count.getDay(), count.getCreated());
+        }
+        taskReportRepository.findHourlyExpirationCounts(hour, horizon(hour))
+                .forEach((bucket, count) -> add(fresh.expiringByHour, bucket, count));
+        return fresh;
+    }
+
+    private void addExpiration(Counters counters, LocalDateTime expirationDate, long delta) {
+        if (expirationDate == null) {
+            return;
+        }
+        LocalDateTime hour = currentHour();
+        roll(counters, hour);
+        LocalDateTime bucket = expirationDate.truncatedTo(ChronoUnit.HOURS);
+        if (bucket.isBefore(counters.currentHour)) {
+            counters.overdue.add(delta);
+        } else if (bucket.isBefore(horizon(hour))) {
+            add(counters.expiringByHour, bucket, delta);
+        }
+    }
+
+    /**
+     * Folds the buckets of hours that have passed into the overdue counter. Runs at most once
+     * per hour; a write racing with it may land in a folded bucket and be lost until the next
+     * reconciliation.
+     */
+    private static void roll(Counters counters, LocalDateTime hour) {
+        if (!hour.isAfter(counters.currentHour)) {
+            return;
+        }
+        synchronized (counters) {
+            if (!hour.isAfter(counters.currentHour)) {
+                return;
+            }
+            Map.Entry<LocalDateTime, LongAdder> passed;
+            while ((passed = counters.expiringByHour.firstEntry()) != null && passed.getKey().isBefore(hour)) {
+                counters.expiringByHour.remove(passed.getKey());
+                counters.overdue.add(passed.getValue().sum());
+            }
+            counters.currentHour = hour;
+        }
+    }
+
+    private LocalDateTime currentHour() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private LocalDateTime horizon(LocalDateTime hour) {
+        return hour.plusHours(24L + horizonMarginHours);
+    }
+
+    private static <K> void add(NavigableMap<K, LongAdder> buckets, K key, long delta) {
+        buckets.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private static final class Counters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder overdue = new LongAdder();
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> createdByDay = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<LocalDateTime, LongAdder> expiringByHour = new ConcurrentSkipListMap<>();
+        private final LocalDateTime reconciledAt;
+        private volatile LocalDateTime currentHour;
+
+        private Counters(LocalDateTime currentHour, LocalDateTime reconciledAt) {
+            this.currentHour = currentHour;
+            this.reconciledAt = reconciledAt;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.todolist.services.interfaces;
 
+import com.example.todolist.dtos.DailyTaskCountDTO;
 import com.example.todolist.dtos.TaskDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
 import com.example.todolist.entities.Task;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -20,4 +22,8 @@ public interface ITaskService {
     Mono<Task> updateTask(UUID id, TaskDTO taskDetails);
 
     Mono<Void> deleteTask(UUID id);
+
+    Mono<TaskStatsDTO> getTaskStats();
+
+    Flux<DailyTaskCountDTO> getDailyCreationReport(int days);
 }
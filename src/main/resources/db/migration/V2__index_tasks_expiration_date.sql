@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_expiration_date ON tasks (expiration_date);
@@ -0,0 +1,113 @@
+package com.example.todolist.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledJackson2JsonEncoderTest {
+
+    private static final ResolvableType MAP_TYPE = ResolvableType.forClass(Map.class);
+
+    private final PooledJackson2JsonEncoder encoder = new PooledJackson2JsonEncoder(new ObjectMapper());
+
+    @Test
+    void whenEncodeFlux_thenWriteJsonArray() {
+        Flux<DataBuffer> buffers = encoder.encode(Flux.just(Map.of("title", "a"), Map.of("title", "b")),
+                DefaultDataBufferFactory.sharedInstance, MAP_TYPE, MediaType.APPLICATION_JSON, null);
+
+        StepVerifier.create(joined(buffers))
+                .expectNext("[{\"title\":\"a\"},{\"title\":\"b\"}]")
+                .verifyComplete();
+    }
+
+    @Test
+    void whenEncodeManySmallValues_thenPackThemIntoLargeBuffers() {
+        Flux<DataBuffer> buffers = encoder.encode(Flux.range(0, 1000).map(i -> Map.of("title", "task-" + i)),
+                DefaultDataBufferFactory.sharedInstance, MAP_TYPE, MediaType.APPLICATION_JSON, null);
+
+        List<DataBuffer> encoded = buffers.collectList().block();
+
+        assertTrue(encoded.size() < 10);
+        for (DataBuffer buffer : encoded.subList(0, encoded.size() - 1)) {
+            assertTrue(buffer.readableByteCount() >= 8 * 1024);
+        }
+        String json = encoded.stream()
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .collect(Collectors.joining());
+        assertTrue(json.startsWith("[{\"title\":\"task-0\"},"));
+        assertTrue(json.endsWith(",{\"title\":\"task-999\"}]"));
+    }
+
+    @Test
+    void whenEncodeEmptyFlux_thenWriteEmptyArray() {
+        Flux<DataBuffer> buffers = encoder.encode(Flux.empty(),
+                DefaultDataBufferFactory.sharedInstance, MAP_TYPE, MediaType.APPLICATION_JSON, null);
+
+        StepVerifier.create(joined(buffers))
+                .expectNext("[]")
+                .verifyComplete();
+    }
+
+    @Test
+    void whenEncodeFluxAsNdjson_thenWriteOneValuePerLine() {
+        Flux<DataBuffer> buffers = encoder.encode(Flux.just(Map.of("title", "a"), Map.of("title", "b")),
+                DefaultDataBufferFactory.sharedInstance, MAP_TYPE, MediaType.APPLICATION_NDJSON, null);
+
+        StepVerifier.create(joined(buffers))
+                .expectNext("{\"title\":\"a\"}\n{\"title\":\"b\"}\n")
+                .verifyComplete();
+    }
+
+    @Test
+    void whenEncodeMono_thenWriteSingleValue() {
+        Flux<DataBuffer> buffers = encoder.encode(Mono.just(Map.of("title", "a")),
+                DefaultDataBufferFactory.sharedInstance, MAP_TYPE, MediaType.APPLICATION_JSON, null);
+
+        StepVerifier.create(joined(buffers))
+                .expectNext("{\"title\":\"a\"}")
+                .verifyComplete();
+    }
+
+    @Test
+    void whenEncodeValue_thenWriteIntoBufferFromGivenFactory() {
+        DataBufferFactory pooled = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+        DataBuffer buffer = encoder.encodeValue(Map.of("title", "x".repeat(2048)), pooled, MAP_TYPE,
+                MediaType.APPLICATION_JSON, null);
+
+        try {
+            assertInstanceOf(NettyDataBuffer.class, buffer);
+            assertEquals(2048 + "{\"title\":\"\"}".length(), buffer.readableByteCount());
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static Mono<String> joined(Flux<DataBuffer> buffers) {
+        return DataBufferUtils.join(buffers).map(buffer -> {
+            String json = buffer.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(buffer);
+            return json;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.todolist.controllers;
+
+import com.example.todolist.config.CodecConfig;
+import com.example.todolist.entities.Task;
+import com.example.todolist.services.interfaces.ITaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the controller on a real Netty server, since compression is applied by the server
+ * and not by the mock exchange used in {@link TaskControllerTest}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = TaskControllerCompressionTest.WebConfig.class)
+public class TaskControllerCompressionTest {
+
+    @MockBean
+    private ITaskService taskService;
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @Test
+    void whenGetAllTasksAboveThreshold_thenResponseIsGzipped() {
+        when(taskService.getAllTasks()).thenReturn(Flux.range(0, 100).map(this::task));
+
+        webTestClient.get().uri("/tasks")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    @Test
+    void whenClientDoesNotAcceptGzip_thenResponseIsNotCompressed() {
+        when(taskService.getAllTasks()).thenReturn(Flux.range(0, 100).map(this::task));
+
+        webTestClient.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private Task task(int index) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task Title " + index);
+        task.setDescription("Task Description " + index);
+        task.setCreationDate(LocalDateTime.now());
+        task.setExpirationDate(LocalDateTime.now().plusDays(1));
+        return task;
+    }
+
+    @TestConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            CodecsAutoConfiguration.class,
+            ValidationAutoConfiguration.class,
+            ReactiveWebServerFactoryAutoConfiguration.class,
+            HttpHandlerAutoConfiguration.class,
+            WebFluxAutoConfiguration.class
+    })
+    @Import({TaskController.class, CodecConfig.class})
+    static class WebConfig {
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.todolist.controllers;
 
+import com.example.todolist.config.CodecConfig;
 import com.example.todolist.dtos.TaskDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
 import com.example.todolist.entities.Task;
 import com.example.todolist.services.interfaces.ITaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,15 +19,19 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
 @WebFluxTest(controllers = TaskController.class)
-@Import(ITaskService.class)
+@Import({ITaskService.class, CodecConfig.class})
 public class TaskControllerTest {
 
     @MockBean
@@ -76,6 +82,21 @@ public class TaskControllerTest {
                 .expectBodyList(Task.class).hasSize(2);
     }
 
+    @Test
+    void whenGetAllTasksWithLargeResult_thenStreamedFromSingleSubscription() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        when(taskService.getAllTasks()).thenReturn(Flux.range(0, 100_000)
+                .map(i -> task)
+                .doOnSubscribe(s -> subscriptions.incrementAndGet()));
+
+        webTestClient.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Task.class).hasSize(100_000);
+
+        assertEquals(1, subscriptions.get());
+    }
+
     @Test
     void whenGetAllTasks_thenStatusNoContent() {
         when(taskService.getAllTasks()).thenReturn(Flux.empty());
@@ -85,6 +106,20 @@ public class TaskControllerTest {
                 .expectStatus().isNoContent();
     }
 
+    @Test
+    void whenGetTaskStats_thenStatusOk() {
+        TaskStatsDTO stats = new TaskStatsDTO(3, 1, 2, Map.of(LocalDate.now(), 3L), LocalDateTime.now());
+        when(taskService.getTaskStats()).thenReturn(Mono.just(stats));
+
+        webTestClient.get().uri("/tasks/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(3)
+                .jsonPath("$.overdue").isEqualTo(1)
+                .jsonPath("$.expiringNext24h").isEqualTo(2);
+    }
+
     @Test
     void whenGetTaskById_thenStatusOk() {
         when(taskService.getTaskById(id)).thenReturn(Mono.just(task));
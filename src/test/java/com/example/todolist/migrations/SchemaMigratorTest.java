@@ -0,0 +1,172 @@
+package com.example.todolist.migrations;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaMigratorTest {
+
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/*.sql";
+    private static final String TEST_MIGRATION_LOCATION = "classpath:db/test-migration/*.sql";
+
+    private DatabaseClient databaseClient;
+    private SchemaMigrator schemaMigrator;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///migrations-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        schemaMigrator = new SchemaMigrator(connectionFactory, databaseClient, TEST_MIGRATION_LOCATION, true, 10, 0);
+        // H2 has no advisory locks; any function taking the key stands in for them
+        databaseClient.sql("CREATE ALIAS PG_ADVISORY_LOCK FOR 'java.lang.Math.abs(long)'").then()
+                .then(databaseClient.sql("CREATE ALIAS PG_ADVISORY_UNLOCK FOR 'java.lang.Math.abs(long)'").then())
+                .then(schemaMigrator.createHistoryTable())
+                .block();
+    }
+
+    @Test
+    void whenFindMigrations_thenReturnedInVersionOrder() {
+        List<SchemaMigrator.Migration> migrations = SchemaMigrator.findMigrations(MIGRATION_LOCATION);
+
+        assertTrue(migrations.size() >= 2);
+        for (int i = 1; i < migrations.size(); i++) {
+            assertTrue(migrations.get(i - 1).version() < migrations.get(i).version());
+        }
+    }
+
+    @Test
+    void whenFindMigrations_thenFileNameIsParsed() {
+        SchemaMigrator.Migration first = SchemaMigrator.findMigrations(MIGRATION_LOCATION).get(0);
+
+        assertEquals(1, first.version());
+        assertEquals("create tasks", first.description());
+        assertFalse(first.backfill());
+        assertFalse(first.background());
+    }
+
+    @Test
+    void whenFindMigrations_thenConcurrentIndexRunsInBackground() {
+        SchemaMigrator.Migration index = SchemaMigrator.findMigrations(MIGRATION_LOCATION).get(1);
+
+        assertEquals(List.of("idx_tasks_expiration_date"), index.concurrentIndexes());
+        assertTrue(index.background());
+    }
+
+    @Test
+    void whenApplyForeground_thenTrailingBackgroundMigrationIsDeferred() {
+        StepVerifier.create(schemaMigrator.applyForeground())
+                .verifyComplete();
+
+        assertEquals(List.of(1, 2, 3, 4), appliedVersions());
+    }
+
+    @Test
+    void whenOrdinaryMigrationFollowsBackfill_thenStartupWaitsForBackfill() {
+        // A previous release applied V1 and left rows without a label, which V3 no longer allows
+        databaseClient.sql("CREATE TABLE items (id INTEGER PRIMARY KEY, label VARCHAR(255))").then()
+                .then(databaseClient.sql("INSERT INTO schema_migrations (version, description, applied_at) VALUES (1, 'create items', CURRENT_TIMESTAMP)").then())
+                .then(insertItems(25, null))
+                .block();
+
+        StepVerifier.create(schemaMigrator.applyForeground())
+                .verifyComplete();
+
+        assertEquals(List.of(1, 2, 3, 4), appliedVersions());
+        assertEquals(0L, countItemsWhere("label IS NULL"));
+    }
+
+    @Test
+    void whenApplyForegroundAgain_thenAppliedVersionsAreSkipped() {
+        schemaMigrator.applyForeground().block();
+
+        // V1 creates the table without IF NOT EXISTS, so running it a second time would fail
+        StepVerifier.create(schemaMigrator.applyForeground())
+                .verifyComplete();
+
+        assertEquals(List.of(1, 2, 3, 4), appliedVersions());
+    }
+
+    @Test
+    void whenApplyBackground_thenDeferredMigrationsAreApplied() {
+        schemaMigrator.applyForeground().block();
+
+        StepVerifier.create(schemaMigrator.applyBackground())
+                .verifyComplete();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), appliedVersions());
+    }
+
+    @Test
+    void whenStartupMigrations_thenEndAtLastOrdinaryMigration() {
+        List<SchemaMigrator.Migration> pending = SchemaMigrator.findMigrations(TEST_MIGRATION_LOCATION);
+
+        List<SchemaMigrator.Migration> startup = SchemaMigrator.startupMigrations(pending);
+
+        assertEquals(List.of(1, 2, 3, 4), startup.stream().map(SchemaMigrator.Migration::version).toList());
+        assertTrue(SchemaMigrator.startupMigrations(pending.subList(4, 5)).isEmpty());
+    }
+
+    @Test
+    void whenBackfill_thenBatchesRepeatUntilNoRowIsUpdated() {
+        schemaMigrator.applyForeground().block();
+        insertItems(25, "item").block();
+
+        StepVerifier.create(schemaMigrator.backfill(backfillMigration()))
+                .expectNext(25L)
+                .verifyComplete();
+
+        assertEquals(0L, countItemsWhere("code IS NULL"));
+    }
+
+    @Test
+    void whenBackfillHasNothingToUpdate_thenStopsAfterFirstBatch() {
+        schemaMigrator.applyForeground().block();
+
+        StepVerifier.create(schemaMigrator.backfill(backfillMigration()))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    private SchemaMigrator.Migration backfillMigration() {
+        SchemaMigrator.Migration migration = SchemaMigrator.findMigrations(TEST_MIGRATION_LOCATION).get(4);
+        assertTrue(migration.backfill());
+        return migration;
+    }
+
+    private Mono<Void> insertItems(int count, String label) {
+        return Flux.range(1, count)
+                .concatMap(id -> {
+                    DatabaseClient.GenericExecuteSpec insert = databaseClient
+                            .sql("INSERT INTO items (id, label) VALUES (:id, :label)")
+                            .bind("id", id);
+                    return (label == null ? insert.bindNull("label", String.class) : insert.bind("label", label)).then();
+                })
+                .then();
+    }
+
+    private Long countItemsWhere(String condition) {
+        return databaseClient.sql("SELECT COUNT(*) AS matching FROM items WHERE " + condition)
+                .map(row -> row.get("matching", Long.class))
+                .one()
+                .block();
+    }
+
+    private List<Integer> appliedVersions() {
+        return databaseClient.sql("SELECT version FROM schema_migrations ORDER BY version")
+                .map(row -> row.get("version", Integer.class))
+                .all()
+                .collectList()
+                .block();
+    }
+}
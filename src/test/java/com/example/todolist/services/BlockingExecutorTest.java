@@ -0,0 +1,65 @@
+package com.example.todolist.services;
+
+import com.example.todolist.errors.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockingExecutorTest {
+
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(4, 100, "blocking-test");
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void whenCall_thenReturnResult() {
+        BlockingExecutor executor = new BlockingExecutor(scheduler, 1, 1000);
+
+        StepVerifier.create(executor.call(() -> "done"))
+                .expectNext("done")
+                .verifyComplete();
+    }
+
+    @Test
+    void whenAllPermitsInUse_thenThrowServiceUnavailableException() throws InterruptedException {
+        BlockingExecutor executor = new BlockingExecutor(scheduler, 1, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            StepVerifier.create(executor.call(() -> "done"))
+                    .expectError(ServiceUnavailableException.class)
+                    .verify();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void whenNoConnectionAvailable_thenThrowServiceUnavailableException() {
+        BlockingExecutor executor = new BlockingExecutor(scheduler, 1, 1000);
+
+        StepVerifier.create(executor.call(() -> {
+                    throw new CannotGetJdbcConnectionException("Connection is not available");
+                }))
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+    }
+}
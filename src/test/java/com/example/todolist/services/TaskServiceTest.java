@@ -1,23 +1,31 @@
 package com.example.todolist.services;
 
+import com.example.todolist.dtos.DailyTaskCountDTO;
 import com.example.todolist.dtos.TaskDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
 import com.example.todolist.entities.Task;
 import com.example.todolist.errors.TaskNotFoundException;
 import com.example.todolist.errors.TaskTitleExistsException;
 import com.example.todolist.errors.TaskValidationException;
+import com.example.todolist.repositories.TaskReportRepository;
 import com.example.todolist.repositories.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +40,15 @@ public class TaskServiceTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private TaskReportRepository taskReportRepository;
+
+    @Spy
+    private BlockingExecutor blockingExecutor = new BlockingExecutor(Schedulers.immediate(), 1, 1000);
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -67,6 +84,7 @@ public class TaskServiceTest {
 
         verify(taskRepository).findByTitle(taskDTO.getTitle());
         verify(taskRepository).save(any(Task.class));
+        verify(taskStatistics).recordCreated(task);
     }
 
     @Test
@@ -127,6 +145,7 @@ public class TaskServiceTest {
 
         verify(taskRepository).findById(id);
         verify(taskRepository).save(task);
+        verify(taskStatistics).recordExpirationChanged(any(LocalDateTime.class), eq(taskDTO.getExpirationDate()));
     }
 
     @Test
@@ -170,6 +189,7 @@ public class TaskServiceTest {
 
         verify(taskRepository).findById(id);
         verify(taskRepository).deleteById(id);
+        verify(taskStatistics).recordDeleted(task);
     }
 
     @Test
@@ -182,5 +202,37 @@ public class TaskServiceTest {
 
         verify(taskRepository).findById(id);
         verify(taskRepository, never()).deleteById(id);
+        verify(taskStatistics, never()).recordDeleted(any(Task.class));
+    }
+
+    @Test
+    void whenGetTaskStats_thenReturnSnapshot() {
+        TaskStatsDTO stats = new TaskStatsDTO(1, 0, 1, Map.of(LocalDate.now(), 1L), LocalDateTime.now());
+        when(taskStatistics.snapshot()).thenReturn(stats);
+
+        StepVerifier.create(taskService.getTaskStats())
+                .expectNext(stats)
+                .verifyComplete();
+    }
+
+    @Test
+    void whenGetDailyCreationReport_thenReturnDailyCounts() {
+        DailyTaskCountDTO today = new DailyTaskCountDTO(LocalDate.now(), 2);
+        when(taskReportRepository.findDailyCreationCounts(LocalDate.now().minusDays(6))).thenReturn(List.of(today));
+
+        StepVerifier.create(taskService.getDailyCreationReport(7))
+                .expectNext(today)
+                .verifyComplete();
+
+        verify(blockingExecutor).call(any());
+    }
+
+    @Test
+    void whenGetDailyCreationReportWithInvalidDays_thenThrowTaskValidationException() {
+        StepVerifier.create(taskService.getDailyCreationReport(0))
+                .expectError(TaskValidationException.class)
+                .verify();
+
+        verify(taskReportRepository, never()).findDailyCreationCounts(any(LocalDate.class));
     }
 }
@@ -0,0 +1,171 @@
+package com.example.todolist.services;
+
+import com.example.todolist.dtos.DailyTaskCountDTO;
+import com.example.todolist.dtos.TaskStatsDTO;
+import com.example.todolist.entities.Task;
+import com.example.todolist.repositories.TaskReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatisticsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 10, 30);
+
+    @Mock
+    private TaskReportRepository taskReportRepository;
+
+    private MutableClock clock;
+    private TaskStatistics taskStatistics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        taskStatistics = new TaskStatistics(taskReportRepository, 30, 2, 60_000, clock);
+    }
+
+    @Test
+    void whenTasksCreated_thenCountersAreIncremented() {
+        taskStatistics.recordCreated(task(NOW.minusDays(2)));
+        taskStatistics.recordCreated(task(NOW.plusHours(3)));
+        taskStatistics.recordCreated(task(NOW.plusDays(3)));
+
+        TaskStatsDTO stats = taskStatistics.snapshot();
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(1, stats.getOverdue());
+        assertEquals(1, stats.getExpiringNext24h());
+        assertEquals(3L, stats.getCreatedPerDay().get(NOW.toLocalDate()));
+    }
+
+    @Test
+    void whenExpirationChanged_thenTaskMovesBetweenBuckets() {
+        LocalDateTime expiration = NOW.plusHours(20);
+        taskStatistics.recordCreated(task(expiration));
+
+        taskStatistics.recordExpirationChanged(expiration, NOW.minusHours(3));
+
+        TaskStatsDTO stats = taskStatistics.snapshot();
+        assertEquals(1, stats.getTotal());
+        assertEquals(1, stats.getOverdue());
+        assertEquals(0, stats.getExpiringNext24h());
+    }
+
+    @Test
+    void whenTaskDeleted_thenCountersAreDecremented() {
+        Task task = task(NOW.plusHours(3));
+        taskStatistics.recordCreated(task);
+
+        taskStatistics.recordDeleted(task);
+
+        TaskStatsDTO stats = taskStatistics.snapshot();
+        assertEquals(0, stats.getTotal());
+        assertEquals(0, stats.getExpiringNext24h());
+        assertEquals(0L, stats.getCreatedPerDay().get(NOW.toLocalDate()));
+    }
+
+    @Test
+    void whenHoursPass_thenExpiredBucketsRollIntoOverdue() {
+        taskStatistics.recordCreated(task(NOW.plusHours(1)));
+        taskStatistics.recordCreated(task(NOW.plusHours(5)));
+
+        clock.advance(Duration.ofHours(3));
+
+        TaskStatsDTO stats = taskStatistics.snapshot();
+        assertEquals(1, stats.getOverdue());
+        assertEquals(1, stats.getExpiringNext24h());
+    }
+
+    @Test
+    void whenReconciled_thenCountersAreReplacedBySqlAggregates() {
+        LocalDateTime currentHour = LocalDateTime.of(2026, 10, 19, 10, 0);
+        taskStatistics.recordCreated(task(NOW.plusHours(3)));
+        when(taskReportRepository.countAll()).thenReturn(7L);
+        when(taskReportRepository.countExpiredBefore(currentHour)).thenReturn(5L);
+        when(taskReportRepository.findDailyCreationCounts(any(LocalDate.class)))
+                .thenReturn(List.of(new DailyTaskCountDTO(NOW.toLocalDate(), 7)));
+        when(taskReportRepository.findHourlyExpirationCounts(currentHour, currentHour.plusHours(26)))
+                .thenReturn(Map.of(currentHour.plusHours(2), 2L));
+
+        taskStatistics.reconcile();
+
+        TaskStatsDTO stats = taskStatistics.snapshot();
+        assertEquals(7, stats.getTotal());
+        assertEquals(5, stats.getOverdue());
+        assertEquals(2, stats.getExpiringNext24h());
+        assertEquals(7L, stats.getCreatedPerDay().get(NOW.toLocalDate()));
+        assertEquals(NOW, stats.getReconciledAt());
+        verify(taskReportRepository).findHourlyExpirationCounts(currentHour, currentHour.plusHours(26));
+    }
+
+    @Test
+    void whenReconciliationFails_thenCountersAreKept() {
+        taskStatistics.recordCreated(task(NOW.plusHours(3)));
+        when(taskReportRepository.countAll()).thenThrow(new IllegalStateException("database unavailable"));
+
+        taskStatistics.reconcile();
+
+        TaskStatsDTO stats = taskStatistics.snapshot();
+        assertEquals(1, stats.getTotal());
+        assertNull(stats.getReconciledAt());
+    }
+
+    @Test
+    void whenReconcileIntervalNotShorterThanHorizonMargin_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TaskStatistics(taskReportRepository, 30, 1, 3_600_000, clock));
+    }
+
+    private Task task(LocalDateTime expirationDate) {
+        Task task = new Task();
+        task.setTitle("Task Title");
+        task.setCreationDate(NOW);
+        task.setExpirationDate(expirationDate);
+        return task;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
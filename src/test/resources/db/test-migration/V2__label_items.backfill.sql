@@ -0,0 +1 @@
+UPDATE items SET label = 'item-' || id WHERE id IN (SELECT id FROM items WHERE label IS NULL LIMIT :batchSize);
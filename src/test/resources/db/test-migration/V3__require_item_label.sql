@@ -0,0 +1 @@
+ALTER TABLE items ALTER COLUMN label SET NOT NULL;
@@ -0,0 +1 @@
+ALTER TABLE items ADD COLUMN code VARCHAR(255);
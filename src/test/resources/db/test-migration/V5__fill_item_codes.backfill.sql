@@ -0,0 +1 @@
+UPDATE items SET code = UPPER(label) WHERE id IN (SELECT id FROM items WHERE code IS NULL LIMIT :batchSize);